@@ -0,0 +1,25 @@
+package com.inventory_api.cluster;
+
+public class InvalidationStats {
+    private String instanceId;
+    private long received;
+    // Ids que no aparecieron antes de gap-timeout-ms (rollback o commit tardío)
+    private long unresolvedGaps;
+    private long lastLagMillis;
+    private long maxLagMillis;
+
+    public InvalidationStats(String instanceId, long received, long unresolvedGaps, long lastLagMillis, long maxLagMillis) {
+        this.instanceId = instanceId;
+        this.received = received;
+        this.unresolvedGaps = unresolvedGaps;
+        this.lastLagMillis = lastLagMillis;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    // Getters
+    public String getInstanceId() { return instanceId; }
+    public long getReceived() { return received; }
+    public long getUnresolvedGaps() { return unresolvedGaps; }
+    public long getLastLagMillis() { return lastLagMillis; }
+    public long getMaxLagMillis() { return maxLagMillis; }
+}
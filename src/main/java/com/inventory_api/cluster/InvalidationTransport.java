@@ -0,0 +1,16 @@
+package com.inventory_api.cluster;
+
+import java.util.function.Consumer;
+
+// Canal por el que las instancias se avisan de items modificados/eliminados
+public interface InvalidationTransport {
+
+    // Difunde la invalidación de un item al resto de instancias
+    void publish(Long itemId);
+
+    // Registra un listener que recibe los ids invalidados por otras instancias
+    void subscribe(Consumer<Long> listener);
+
+    // Métricas de entrega (recibidas y retraso observado)
+    InvalidationStats stats();
+}
@@ -0,0 +1,33 @@
+package com.inventory_api.cluster;
+
+import com.inventory_api.config.CacheConfig;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+// Aplica sobre la caché local las invalidaciones recibidas de otras instancias
+@Component
+public class ItemCacheInvalidator {
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @PostConstruct
+    void register() {
+        transport.subscribe(this::evict);
+    }
+
+    void evict(Long itemId) {
+        Cache cache = cacheManager.getCache(CacheConfig.ITEMS_CACHE);
+        if (cache != null) {
+            cache.evict(itemId);
+        }
+    }
+}
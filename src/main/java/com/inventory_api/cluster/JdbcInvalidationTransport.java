@@ -0,0 +1,149 @@
+package com.inventory_api.cluster;
+
+import com.inventory_api.model.ItemInvalidation;
+import com.inventory_api.repository.ItemInvalidationRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Transporte sobre la base de datos compartida: cada modificación inserta una
+// fila en item_invalidation dentro de la misma transacción, y cada instancia
+// sondea la tabla. Con entrega normal la obsolescencia queda acotada por
+// poll-interval-ms más la duración del commit; si una notificación se pierde,
+// el límite es el TTL de la caché (inventory.cache.items.ttl-ms).
+@Component
+@ConditionalOnProperty(name = "inventory.cluster.enabled", havingValue = "true")
+public class JdbcInvalidationTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcInvalidationTransport.class);
+
+    // Saltos mayores (p.ej. caché de la secuencia tras un reinicio) no se rastrean
+    private static final int MAX_TRACKED_GAP = 1000;
+
+    private final ItemInvalidationRepository repo;
+    private final String instanceId;
+    private final Duration gapTimeout;
+    private final Duration retention;
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    // Mayor id leído y huecos por debajo de él (id -> cuándo se detectó)
+    private long cursor;
+    private final TreeMap<Long, Instant> gaps = new TreeMap<>();
+
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong unresolvedGaps = new AtomicLong();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    public JdbcInvalidationTransport(
+            ItemInvalidationRepository repo,
+            @Value("${inventory.cluster.instance-id:}") String instanceId,
+            @Value("${inventory.cluster.gap-timeout-ms:2000}") long gapTimeoutMs,
+            @Value("${inventory.cluster.retention-ms:600000}") long retentionMs) {
+        this.repo = repo;
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.gapTimeout = Duration.ofMillis(gapTimeoutMs);
+        this.retention = Duration.ofMillis(retentionMs);
+    }
+
+    // No se reprocesa el histórico: la caché local arranca vacía
+    @PostConstruct
+    synchronized void init() {
+        cursor = repo.findTopByOrderByIdDesc().map(ItemInvalidation::getId).orElse(0L);
+    }
+
+    @Override
+    public void publish(Long itemId) {
+        repo.save(new ItemInvalidation(itemId, instanceId, Instant.now()));
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    // Los ids IDENTITY se asignan antes del commit, así que una transacción lenta
+    // se hace visible con un id menor que el último leído. Cada id que falta por
+    // debajo del cursor se guarda como hueco y se vuelve a consultar hasta que
+    // aparece o pasa gap-timeout-ms. Un hueco sin resolver puede ser un rollback
+    // (no había nada que entregar) o un commit demasiado lento; no se distinguen,
+    // así que se cuenta aparte y el segundo caso queda cubierto por el TTL.
+    @Scheduled(fixedDelayString = "${inventory.cluster.poll-interval-ms:200}")
+    public synchronized void poll() {
+        Instant now = Instant.now();
+        long from = gaps.isEmpty() ? cursor : Math.min(cursor, gaps.firstKey() - 1);
+
+        for (ItemInvalidation inv : repo.findByIdGreaterThanOrderByIdAsc(from)) {
+            long id = inv.getId();
+            if (id <= cursor) {
+                if (gaps.remove(id) == null) {
+                    continue;  // ya aplicada
+                }
+            } else {
+                if (id - cursor - 1 > MAX_TRACKED_GAP) {
+                    log.warn("Skipping untracked invalidation id gap {}..{}", cursor + 1, id - 1);
+                } else {
+                    for (long g = cursor + 1; g < id; g++) {
+                        gaps.put(g, now);
+                    }
+                }
+                cursor = id;
+            }
+            deliver(inv);
+        }
+
+        Iterator<Map.Entry<Long, Instant>> it = gaps.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Instant> gap = it.next();
+            if (Duration.between(gap.getValue(), now).compareTo(gapTimeout) > 0) {
+                it.remove();
+                unresolvedGaps.incrementAndGet();
+                log.info("Invalidation id {} unresolved after {} ms (possibly a rollback); cache TTL covers a late commit",
+                         gap.getKey(), gapTimeout.toMillis());
+            }
+        }
+    }
+
+    private void deliver(ItemInvalidation inv) {
+        if (instanceId.equals(inv.getOrigin())) {
+            return;  // evicción local ya hecha por @CacheEvict
+        }
+        // Métricas antes de evictar: quien observe el valor nuevo ya las ve
+        long lag = Math.max(0, Duration.between(inv.getCreatedAt(), Instant.now()).toMillis());
+        received.incrementAndGet();
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+
+        listeners.forEach(l -> l.accept(inv.getItemId()));
+    }
+
+    // Limpieza de notificaciones que ya ninguna instancia va a leer
+    @Scheduled(fixedDelayString = "${inventory.cluster.purge-interval-ms:60000}")
+    public void purge() {
+        repo.deleteByCreatedAtBefore(Instant.now().minus(retention));
+    }
+
+    @Override
+    public InvalidationStats stats() {
+        return new InvalidationStats(instanceId, received.get(), unresolvedGaps.get(), lastLagMillis.get(), maxLagMillis.get());
+    }
+}
@@ -0,0 +1,23 @@
+package com.inventory_api.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+// Instancia única: no hay nadie a quien avisar
+@Component
+@ConditionalOnProperty(name = "inventory.cluster.enabled", havingValue = "false", matchIfMissing = true)
+public class NoopInvalidationTransport implements InvalidationTransport {
+
+    @Override
+    public void publish(Long itemId) { }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) { }
+
+    @Override
+    public InvalidationStats stats() {
+        return new InvalidationStats("standalone", 0, 0, 0, 0);
+    }
+}
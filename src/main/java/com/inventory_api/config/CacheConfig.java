@@ -0,0 +1,67 @@
+package com.inventory_api.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inventory_api.model.Item;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+// El interceptor de caché va por fuera del transaccional, así los @CacheEvict
+// se aplican después del commit. Aun así una lectura que falló en la caché
+// antes del commit puede volver a guardar el valor antiguo tras el evict
+// (aquí o en otra instancia tras su sondeo); la expiración es el límite duro
+// de obsolescencia y debe ser >= poll-interval-ms + gap-timeout-ms.
+@Configuration
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+public class CacheConfig {
+
+    public static final String ITEMS_CACHE = "items";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${inventory.cache.items.ttl-ms:5000}") long ttlMs,
+            @Value("${inventory.cache.items.max-size:10000}") long maxSize) {
+        CaffeineCacheManager manager = new CaffeineCacheManager(ITEMS_CACHE) {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return new CopyingItemCache(name, cache, isAllowNullValues());
+            }
+        };
+        manager.setCaffeine(Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(ttlMs))
+            .maximumSize(maxSize));
+        return manager;
+    }
+
+    // Las entidades Item son mutables: se guarda una copia y cada lectura
+    // recibe otra, así un setX() de un llamador no altera lo que ven los demás
+    static class CopyingItemCache extends CaffeineCache {
+
+        CopyingItemCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache, boolean allowNullValues) {
+            super(name, cache, allowNullValues);
+        }
+
+        @Override
+        protected Object toStoreValue(Object userValue) {
+            return super.toStoreValue(copy(userValue));
+        }
+
+        @Override
+        protected Object fromStoreValue(Object storeValue) {
+            return copy(super.fromStoreValue(storeValue));
+        }
+
+        private static Object copy(Object value) {
+            return value instanceof Item item ? new Item(item) : value;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.inventory_api.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Modo cluster: activa el sondeo periódico de la tabla de invalidaciones
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "inventory.cluster.enabled", havingValue = "true")
+public class ClusterConfig {
+}
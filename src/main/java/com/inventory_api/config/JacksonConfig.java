@@ -0,0 +1,21 @@
+package com.inventory_api.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.inventory_api.json.MoneyDeserializer;
+import com.inventory_api.json.MoneySerializer;
+import com.inventory_api.model.Money;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+    // Spring Boot registra automáticamente los Module en el ObjectMapper
+    @Bean
+    public Module moneyModule() {
+        SimpleModule module = new SimpleModule("money");
+        module.addSerializer(Money.class, new MoneySerializer());
+        module.addDeserializer(Money.class, new MoneyDeserializer());
+        return module;
+    }
+}
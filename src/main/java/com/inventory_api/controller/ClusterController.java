@@ -0,0 +1,23 @@
+package com.inventory_api.controller;
+
+import com.inventory_api.cluster.InvalidationStats;
+import com.inventory_api.cluster.InvalidationTransport;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cluster")
+public class ClusterController {
+
+    @Autowired
+    private InvalidationTransport transport;
+
+    // GET: invalidaciones recibidas, huecos sin resolver y retraso (ms) observado en esta instancia
+    @GetMapping("/stats")
+    public InvalidationStats stats() {
+        return transport.stats();
+    }
+}
@@ -2,6 +2,7 @@ package com.inventory_api.controller;
 
 import com.inventory_api.dto.ItemDTO;
 import com.inventory_api.model.Item;
+import com.inventory_api.model.Money;
 import com.inventory_api.repository.ItemRepository;
 import com.inventory_api.service.ItemService;
 
@@ -17,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -86,8 +86,8 @@ public class ItemController {
     @GetMapping("/search")
     public List<ItemDTO> search(
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) BigDecimal minPrice,
-            @RequestParam(required = false) BigDecimal maxPrice) {
+            @RequestParam(required = false) Money minPrice,
+            @RequestParam(required = false) Money maxPrice) {
 
         List<Item> items = (name != null)
             ? itemRepository.findByNameContainingIgnoreCase(name)
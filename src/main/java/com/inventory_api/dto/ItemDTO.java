@@ -1,17 +1,17 @@
 package com.inventory_api.dto;
 
-import java.math.BigDecimal;
+import com.inventory_api.model.Money;
 
 public class ItemDTO {
     private Long id;
     private String name;
     private String description;
     private Integer quantity;
-    private BigDecimal price;
+    private Money price;
 
     public ItemDTO() {}
 
-    public ItemDTO(Long id, String name, String description, Integer quantity, BigDecimal price) {
+    public ItemDTO(Long id, String name, String description, Integer quantity, Money price) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -28,6 +28,6 @@ public class ItemDTO {
     public void setDescription(String description) { this.description = description; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
-    public BigDecimal getPrice() { return price; }
-    public void setPrice(BigDecimal price) { this.price = price; }
+    public Money getPrice() { return price; }
+    public void setPrice(Money price) { this.price = price; }
 }
@@ -0,0 +1,26 @@
+package com.inventory_api.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.inventory_api.model.Money;
+
+import java.io.IOException;
+
+// Escribe el importe como número JSON ("19.99") directamente desde los céntimos
+public class MoneySerializer extends StdSerializer<Money> {
+
+    // writeNumber copia los caracteres, así que el buffer se puede reutilizar
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[Money.MAX_CHARS]);
+
+    public MoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        char[] buf = BUFFER.get();
+        int start = value.format(buf);
+        gen.writeNumber(buf, start, buf.length - start);
+    }
+}
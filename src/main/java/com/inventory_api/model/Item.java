@@ -1,16 +1,17 @@
 package com.inventory_api.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import java.math.BigDecimal;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
-import jakarta.validation.constraints.DecimalMin;
+
+import com.inventory_api.validation.NonNegativeMoney;
 
 @Entity
 public class Item {
@@ -30,8 +31,9 @@ public class Item {
     private Integer quantity;
 
     @NotNull(message = "Price is mandatory")
-    @DecimalMin(value = "0.0", inclusive = true, message = "Price must be >= 0")
-    private BigDecimal price;
+    @NonNegativeMoney(message = "Price must be >= 0")
+    @Column(precision = Money.PRECISION, scale = Money.SCALE)
+    private Money price;
 
 
 
@@ -39,13 +41,22 @@ public class Item {
     public Item() { }
 
     // Constructor con parámetros
-    public Item(String name, String description, Integer quantity, BigDecimal price) {
+    public Item(String name, String description, Integer quantity, Money price) {
         this.name = name;
         this.description = description;
         this.quantity = quantity;
         this.price = price;
     }
 
+    // Constructor de copia (copias de la caché; Money es inmutable)
+    public Item(Item other) {
+        this.id = other.id;
+        this.name = other.name;
+        this.description = other.description;
+        this.quantity = other.quantity;
+        this.price = other.price;
+    }
+
     // Getters y setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -59,6 +70,6 @@ public class Item {
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
 
-    public BigDecimal getPrice() { return price; }
-    public void setPrice(BigDecimal price) { this.price = price; }
+    public Money getPrice() { return price; }
+    public void setPrice(Money price) { this.price = price; }
 }
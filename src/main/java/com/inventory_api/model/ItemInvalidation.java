@@ -0,0 +1,45 @@
+package com.inventory_api.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+// Notificación de cambio de un item, compartida entre instancias del cluster
+@Entity
+@Table(name = "item_invalidation", indexes = @Index(columnList = "createdAt"))
+public class ItemInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long itemId;
+
+    // Instancia que originó el cambio (no se la notifica a sí misma)
+    @Column(nullable = false, length = 64)
+    private String origin;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    // Constructor por defecto (obligatorio para JPA)
+    public ItemInvalidation() { }
+
+    public ItemInvalidation(Long itemId, String origin, Instant createdAt) {
+        this.itemId = itemId;
+        this.origin = origin;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getItemId() { return itemId; }
+    public String getOrigin() { return origin; }
+    public Instant getCreatedAt() { return createdAt; }
+}
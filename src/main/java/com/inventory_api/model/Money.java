@@ -0,0 +1,211 @@
+package com.inventory_api.model;
+
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+
+// Importe en punto fijo: céntimos en un long, sin BigDecimal en memoria.
+// El inventario asume una sola moneda (no se guarda ni se expone); la escala
+// es una constante y no un campo de cada instancia.
+// @Immutable: Hibernate compara por referencia/equals en el dirty-check en vez
+// de sacar copias a través de MoneyConverter.
+@Immutable
+public final class Money implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+
+    // Precisión de la columna: 18 dígitos siempre caben en un long
+    public static final int PRECISION = 18;
+
+    // Tamaño de buffer suficiente para format(): signo, 19 dígitos y el punto
+    public static final int MAX_CHARS = 21;
+
+    public static final Money ZERO = new Money(0);
+
+    private static final long[] POW10 = new long[PRECISION + 1];
+    static {
+        POW10[0] = 1;
+        for (int p = 1; p < POW10.length; p++) {
+            POW10[p] = POW10[p - 1] * 10;
+        }
+    }
+
+    // Mayor importe representable en la columna: PRECISION nueves
+    private static final long MAX_MINOR = POW10[PRECISION] - 1;
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        // setScale lanza ArithmeticException si hubiera que redondear
+        return ofMinor(amount.setScale(SCALE).unscaledValue().longValueExact());
+    }
+
+    // Usado también por Spring para convertir @RequestParam: como con BigDecimal,
+    // se ignoran espacios alrededor y un valor vacío equivale a no indicarlo
+    public static Money valueOf(String text) {
+        String trimmed = text.strip();
+        if (trimmed.isEmpty()) {
+            return null;
+        }
+        return parse(trimmed.toCharArray(), 0, trimmed.length());
+    }
+
+    // Parsea "[-+]digitos[.digitos][e[-+]digitos]" sin objetos intermedios.
+    // Se admiten decimales de más solo si son ceros (p.ej. "19.990", "1.5e1").
+    public static Money parse(char[] buf, int offset, int len) {
+        int i = offset;
+        int end = offset + len;
+        boolean negative = false;
+
+        if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+            negative = buf[i] == '-';
+            i++;
+        }
+
+        // valor = mantissa * 10^exp10, con como mucho PRECISION cifras significativas
+        long mantissa = 0;
+        int significant = 0;
+        int exp10 = 0;
+        boolean hasDigits = false;
+
+        while (i < end && buf[i] >= '0' && buf[i] <= '9') {
+            int d = buf[i++] - '0';
+            hasDigits = true;
+            if (significant < PRECISION) {
+                mantissa = mantissa * 10 + d;
+                if (mantissa != 0) {
+                    significant++;
+                }
+            } else if (d == 0) {
+                exp10++;
+            } else {
+                throw invalid(buf, offset, len, "too many digits");
+            }
+        }
+
+        if (i < end && buf[i] == '.') {
+            i++;
+            while (i < end && buf[i] >= '0' && buf[i] <= '9') {
+                int d = buf[i++] - '0';
+                hasDigits = true;
+                if (significant < PRECISION) {
+                    mantissa = mantissa * 10 + d;
+                    if (mantissa != 0) {
+                        significant++;
+                    }
+                    exp10--;
+                } else if (d != 0) {
+                    throw invalid(buf, offset, len, "too many digits");
+                }
+            }
+        }
+        if (!hasDigits) {
+            throw invalid(buf, offset, len, "not a decimal");
+        }
+
+        if (i < end && (buf[i] == 'e' || buf[i] == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < end && (buf[i] == '-' || buf[i] == '+')) {
+                negativeExp = buf[i] == '-';
+                i++;
+            }
+            int expStart = i;
+            int exp = 0;
+            while (i < end && buf[i] >= '0' && buf[i] <= '9') {
+                // Cualquier exponente mayor ya se sale de rango o de escala
+                exp = Math.min(exp * 10 + (buf[i++] - '0'), 10_000);
+            }
+            if (i == expStart) {
+                throw invalid(buf, offset, len, "missing exponent");
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if (i != end) {
+            throw invalid(buf, offset, len, "not a decimal");
+        }
+        if (mantissa == 0) {
+            return ZERO;
+        }
+
+        // Llevar a unidades mínimas: mantissa * 10^(exp10 + SCALE)
+        int shift = exp10 + SCALE;
+        long minor;
+        if (shift >= 0) {
+            if (shift >= PRECISION || mantissa > MAX_MINOR / POW10[shift]) {
+                throw invalid(buf, offset, len, "too many digits");
+            }
+            minor = mantissa * POW10[shift];
+        } else {
+            if (-shift >= POW10.length || mantissa % POW10[-shift] != 0) {
+                throw invalid(buf, offset, len, "more than " + SCALE + " decimals");
+            }
+            minor = mantissa / POW10[-shift];
+        }
+        return ofMinor(negative ? -minor : minor);
+    }
+
+    private static NumberFormatException invalid(char[] buf, int offset, int len, String reason) {
+        return new NumberFormatException("Invalid amount '" + new String(buf, offset, len) + "': " + reason);
+    }
+
+    public long getMinorUnits() { return minorUnits; }
+
+    public boolean isNegative() { return minorUnits < 0; }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    // Escribe el importe al final de buf (length >= MAX_CHARS) y devuelve
+    // la posición inicial. Se opera en negativo para cubrir Long.MIN_VALUE.
+    public int format(char[] buf) {
+        int pos = buf.length;
+        long v = minorUnits < 0 ? minorUnits : -minorUnits;
+
+        for (int f = 0; f < SCALE; f++) {
+            buf[--pos] = (char) ('0' - (v % 10));
+            v /= 10;
+        }
+        buf[--pos] = '.';
+        do {
+            buf[--pos] = (char) ('0' - (v % 10));
+            v /= 10;
+        } while (v != 0);
+
+        if (minorUnits < 0) {
+            buf[--pos] = '-';
+        }
+        return pos;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money m && m.minorUnits == minorUnits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        char[] buf = new char[MAX_CHARS];
+        int start = format(buf);
+        return new String(buf, start, buf.length - start);
+    }
+}
@@ -0,0 +1,20 @@
+package com.inventory_api.repository;
+
+import com.inventory_api.model.ItemInvalidation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+
+@Repository
+public interface ItemInvalidationRepository extends JpaRepository<ItemInvalidation, Long> {
+    List<ItemInvalidation> findByIdGreaterThanOrderByIdAsc(Long id);
+
+    Optional<ItemInvalidation> findTopByOrderByIdDesc();
+
+    @Transactional
+    void deleteByCreatedAtBefore(Instant cutoff);
+}
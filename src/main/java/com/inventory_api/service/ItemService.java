@@ -3,12 +3,16 @@ package com.inventory_api.service;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import jakarta.persistence.EntityNotFoundException;
 
+import com.inventory_api.cluster.InvalidationTransport;
+import com.inventory_api.config.CacheConfig;
 import com.inventory_api.model.Item;
 import com.inventory_api.repository.ItemRepository;
 
@@ -16,18 +20,22 @@ import com.inventory_api.repository.ItemRepository;
 @Transactional  // Opcional a nivel de clase
 public class ItemService {
   @Autowired private ItemRepository repo;
+  @Autowired private InvalidationTransport invalidations;
 
   public Item create(Item item) { return repo.save(item); }
 
   @Transactional(readOnly = true)
   public Page<Item> findAll(Pageable p) { return repo.findAll(p); }
 
+  // Cada acierto devuelve una copia desacoplada (ver CacheConfig.CopyingItemCache)
+  @Cacheable(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
   @Transactional(readOnly = true)
   public Item findById(Long id) {
     return repo.findById(id)
                .orElseThrow(() -> new EntityNotFoundException("Item not found with id " + id));
   }
 
+  @CacheEvict(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
   public Item update(Long id, Item updated) {
     Item existing = findById(id);
     // mapear campos, e.g. existing.setName(updated.getName());
@@ -36,10 +44,16 @@ public class ItemService {
     existing.setDescription(updated.getDescription());
     existing.setQuantity(updated.getQuantity());
     existing.setPrice(updated.getPrice());
-    return repo.save(existing);
+    // flush antes de publicar: si la validación falla no se reserva id de invalidación
+    Item saved = repo.saveAndFlush(existing);
+    invalidations.publish(id);  // misma transacción que el cambio
+    return saved;
   }
 
+  @CacheEvict(cacheNames = CacheConfig.ITEMS_CACHE, key = "#id")
   public void delete(Long id) {
     repo.delete(findById(id));
+    repo.flush();
+    invalidations.publish(id);
   }
 }
@@ -0,0 +1,19 @@
+package com.inventory_api.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Equivalente a @PositiveOrZero para Money (null se considera válido)
+@Target({ ElementType.FIELD, ElementType.PARAMETER })
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = NonNegativeMoneyValidator.class)
+public @interface NonNegativeMoney {
+    String message() default "Amount must be >= 0";
+    Class<?>[] groups() default {};
+    Class<? extends Payload>[] payload() default {};
+}
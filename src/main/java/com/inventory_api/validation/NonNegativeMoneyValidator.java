@@ -0,0 +1,13 @@
+package com.inventory_api.validation;
+
+import com.inventory_api.model.Money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class NonNegativeMoneyValidator implements ConstraintValidator<NonNegativeMoney, Money> {
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || !value.isNegative();
+    }
+}
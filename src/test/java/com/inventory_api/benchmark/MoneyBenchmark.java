@@ -0,0 +1,134 @@
+// src/test/java/com/inventory_api/benchmark/MoneyBenchmark.java
+package com.inventory_api.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inventory_api.config.JacksonConfig;
+import com.inventory_api.dto.ItemDTO;
+import com.inventory_api.model.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// BigDecimal (antes) frente a Money en las respuestas de listado y búsqueda.
+// Ejecutar con el perfil benchmark (incluye -prof gc para medir asignaciones):
+//   ./mvnw -Pbenchmark test-compile exec:exec
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    // DTO tal como era antes de Money
+    public static class LegacyItemDTO {
+        private Long id;
+        private String name;
+        private String description;
+        private Integer quantity;
+        private BigDecimal price;
+
+        public LegacyItemDTO() {}
+
+        public LegacyItemDTO(Long id, String name, String description, Integer quantity, BigDecimal price) {
+            this.id = id;
+            this.name = name;
+            this.description = description;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        // Getters y setters
+        public Long getId() { return id; }
+        public void setId(Long id) { this.id = id; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public Integer getQuantity() { return quantity; }
+        public void setQuantity(Integer quantity) { this.quantity = quantity; }
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+    }
+
+    @Param({ "20", "200" })
+    public int size;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JacksonConfig().moneyModule());
+
+    private List<LegacyItemDTO> legacyItems;
+    private List<ItemDTO> items;
+    private String legacyJson;
+    private String json;
+
+    private BigDecimal legacyMin;
+    private BigDecimal legacyMax;
+    private Money min;
+    private Money max;
+
+    @Setup
+    public void setup() throws Exception {
+        legacyItems = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long minor = 99 + 137L * i;
+            legacyItems.add(new LegacyItemDTO((long) i, "Item" + i, "Desc " + i, i, BigDecimal.valueOf(minor, 2)));
+            items.add(new ItemDTO((long) i, "Item" + i, "Desc " + i, i, Money.ofMinor(minor)));
+        }
+        legacyJson = mapper.writeValueAsString(legacyItems);
+        json = mapper.writeValueAsString(items);
+
+        legacyMin = new BigDecimal("10.00");
+        legacyMax = new BigDecimal("150.00");
+        min = Money.valueOf("10.00");
+        max = Money.valueOf("150.00");
+    }
+
+    @Benchmark
+    public String writeList_bigDecimal() throws Exception {
+        return mapper.writeValueAsString(legacyItems);
+    }
+
+    @Benchmark
+    public String writeList_money() throws Exception {
+        return mapper.writeValueAsString(items);
+    }
+
+    @Benchmark
+    public List<LegacyItemDTO> readList_bigDecimal() throws Exception {
+        return mapper.readValue(legacyJson, new TypeReference<List<LegacyItemDTO>>() {});
+    }
+
+    @Benchmark
+    public List<ItemDTO> readList_money() throws Exception {
+        return mapper.readValue(json, new TypeReference<List<ItemDTO>>() {});
+    }
+
+    // Filtro de rango de ItemController.search + serialización del resultado
+    @Benchmark
+    public String search_bigDecimal() throws Exception {
+        List<LegacyItemDTO> found = new ArrayList<>();
+        for (LegacyItemDTO i : legacyItems) {
+            if (i.getPrice().compareTo(legacyMin) >= 0 && i.getPrice().compareTo(legacyMax) <= 0) {
+                found.add(i);
+            }
+        }
+        return mapper.writeValueAsString(found);
+    }
+
+    @Benchmark
+    public String search_money() throws Exception {
+        List<ItemDTO> found = new ArrayList<>();
+        for (ItemDTO i : items) {
+            if (i.getPrice().compareTo(min) >= 0 && i.getPrice().compareTo(max) <= 0) {
+                found.add(i);
+            }
+        }
+        return mapper.writeValueAsString(found);
+    }
+}
@@ -0,0 +1,132 @@
+// src/test/java/com/inventory_api/cluster/ClusterInvalidationIntegrationTest.java
+package com.inventory_api.cluster;
+
+import com.inventory_api.InventoryApiApplication;
+import com.inventory_api.model.Item;
+import com.inventory_api.model.Money;
+import com.inventory_api.service.ItemService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+
+import static org.assertj.core.api.Assertions.*;
+
+// Dos instancias en la misma JVM compartiendo una BD H2 en memoria con nombre
+class ClusterInvalidationIntegrationTest {
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("node-a");
+        nodeB = startNode("node-b");
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        nodeB.close();
+        nodeA.close();
+    }
+
+    private static ConfigurableApplicationContext startNode(String id) {
+        return new SpringApplicationBuilder(InventoryApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:clusterdb;DB_CLOSE_DELAY=-1",
+                "--spring.devtools.restart.enabled=false",
+                "--inventory.cluster.enabled=true",
+                "--inventory.cluster.instance-id=" + id,
+                "--inventory.cluster.poll-interval-ms=50",
+                "--inventory.cluster.gap-timeout-ms=200",
+                // TTL muy por encima de los plazos: la evicción debe venir del transporte
+                "--inventory.cache.items.ttl-ms=600000");
+    }
+
+    @Test
+    void update_onOneNode_evictsCachedItemOnOther() throws Exception {
+        ItemService serviceA = nodeA.getBean(ItemService.class);
+        ItemService serviceB = nodeB.getBean(ItemService.class);
+
+        Long id = serviceA.create(new Item("Shared", "Desc", 1, Money.valueOf("10.00"))).getId();
+
+        // B cachea el valor inicial
+        assertThat(serviceB.findById(id).getPrice()).isEqualTo(Money.valueOf("10.00"));
+
+        serviceA.update(id, new Item("Shared", "Desc", 1, Money.valueOf("12.50")));
+
+        // La obsolescencia en B queda acotada por el intervalo de sondeo
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!serviceB.findById(id).getPrice().equals(Money.valueOf("12.50"))) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+
+        InvalidationStats stats = nodeB.getBean(InvalidationTransport.class).stats();
+        assertThat(stats.getInstanceId()).isEqualTo("node-b");
+        assertThat(stats.getReceived()).isGreaterThanOrEqualTo(1);
+        assertThat(stats.getMaxLagMillis()).isLessThan(5000);
+        assertThat(stats.getUnresolvedGaps()).isZero();
+
+        // A no recibe sus propias invalidaciones
+        assertThat(nodeA.getBean(InvalidationTransport.class).stats().getReceived()).isZero();
+    }
+
+    @Test
+    void delete_onOneNode_evictsCachedItemOnOther() throws Exception {
+        ItemService serviceA = nodeA.getBean(ItemService.class);
+        ItemService serviceB = nodeB.getBean(ItemService.class);
+        InvalidationTransport transportB = nodeB.getBean(InvalidationTransport.class);
+
+        Long id = serviceA.create(new Item("Gone", "Desc", 1, Money.valueOf("3.00"))).getId();
+        serviceB.findById(id);
+        long receivedBefore = transportB.stats().getReceived();
+
+        serviceA.delete(id);
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (true) {
+            try {
+                serviceB.findById(id);
+            } catch (jakarta.persistence.EntityNotFoundException e) {
+                break;
+            }
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+
+        assertThat(transportB.stats().getReceived()).isGreaterThan(receivedBefore);
+        assertThat(transportB.stats().getUnresolvedGaps()).isZero();
+    }
+
+    @Test
+    void failedUpdate_doesNotAllocateInvalidationId() throws Exception {
+        ItemService serviceA = nodeA.getBean(ItemService.class);
+        ItemService serviceB = nodeB.getBean(ItemService.class);
+        InvalidationTransport transportB = nodeB.getBean(InvalidationTransport.class);
+
+        Long id = serviceA.create(new Item("Valid", "Desc", 1, Money.valueOf("1.00"))).getId();
+        serviceB.findById(id);
+
+        // nombre vacío: falla la validación de la entidad y se hace rollback
+        assertThatThrownBy(() -> serviceA.update(id, new Item("", "Desc", 1, Money.valueOf("2.00"))))
+            .isInstanceOf(RuntimeException.class);
+
+        serviceA.update(id, new Item("Valid", "Desc", 1, Money.valueOf("3.00")));
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!serviceB.findById(id).getPrice().equals(Money.valueOf("3.00"))) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+
+        // más que gap-timeout-ms: un hueco por el rollback ya habría expirado
+        Thread.sleep(400);
+        assertThat(transportB.stats().getUnresolvedGaps()).isZero();
+    }
+}
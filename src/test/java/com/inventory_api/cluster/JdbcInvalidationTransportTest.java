@@ -0,0 +1,101 @@
+// src/test/java/com/inventory_api/cluster/JdbcInvalidationTransportTest.java
+package com.inventory_api.cluster;
+
+import com.inventory_api.model.ItemInvalidation;
+import com.inventory_api.repository.ItemInvalidationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JdbcInvalidationTransportTest {
+
+    @Mock
+    private ItemInvalidationRepository repo;
+
+    private final List<Long> evicted = new ArrayList<>();
+
+    private JdbcInvalidationTransport transport(long gapTimeoutMs) {
+        given(repo.findTopByOrderByIdDesc()).willReturn(Optional.empty());
+        JdbcInvalidationTransport t = new JdbcInvalidationTransport(repo, "self", gapTimeoutMs, 60000);
+        t.init();
+        t.subscribe(evicted::add);
+        return t;
+    }
+
+    private static ItemInvalidation row(long id, long itemId, String origin) {
+        ItemInvalidation inv = new ItemInvalidation(itemId, origin, Instant.now());
+        ReflectionTestUtils.setField(inv, "id", id);
+        return inv;
+    }
+
+    @BeforeEach
+    void clear() {
+        evicted.clear();
+    }
+
+    @Test
+    void poll_lateCommitBelowCursor_isDeliveredOnce() {
+        JdbcInvalidationTransport t = transport(60000);
+
+        given(repo.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(row(1, 10, "other"), row(3, 30, "other")));
+        t.poll();
+
+        // el id 2 hace commit después; se vuelve a consultar desde el hueco
+        given(repo.findByIdGreaterThanOrderByIdAsc(1L))
+            .willReturn(List.of(row(2, 20, "other"), row(3, 30, "other")));
+        t.poll();
+
+        assertThat(evicted).containsExactly(10L, 30L, 20L);
+        assertThat(t.stats().getReceived()).isEqualTo(3);
+        assertThat(t.stats().getUnresolvedGaps()).isZero();
+    }
+
+    @Test
+    void poll_ownRows_advanceCursorWithoutDelivery() {
+        JdbcInvalidationTransport t = transport(60000);
+
+        given(repo.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(row(1, 10, "self"), row(2, 20, "other")));
+        t.poll();
+
+        given(repo.findByIdGreaterThanOrderByIdAsc(2L)).willReturn(List.of());
+        t.poll();
+
+        assertThat(evicted).containsExactly(20L);
+    }
+
+    @Test
+    void poll_gapNeverCommitted_countsAsUnresolvedAfterTimeout() throws Exception {
+        JdbcInvalidationTransport t = transport(0);
+
+        given(repo.findByIdGreaterThanOrderByIdAsc(0L))
+            .willReturn(List.of(row(1, 10, "other"), row(3, 30, "other")));
+        t.poll();
+
+        Thread.sleep(5);
+        given(repo.findByIdGreaterThanOrderByIdAsc(1L)).willReturn(List.of(row(3, 30, "other")));
+        t.poll();
+
+        assertThat(t.stats().getUnresolvedGaps()).isEqualTo(1);
+
+        // sin huecos pendientes vuelve a consultar desde el cursor
+        given(repo.findByIdGreaterThanOrderByIdAsc(3L)).willReturn(List.of());
+        t.poll();
+        then(repo).should().findByIdGreaterThanOrderByIdAsc(3L);
+    }
+}
@@ -0,0 +1,42 @@
+// src/test/java/com/inventory_api/config/CacheConfigTest.java
+package com.inventory_api.config;
+
+import com.inventory_api.model.Item;
+import com.inventory_api.model.Money;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CacheConfigTest {
+
+    private final Cache cache = new CacheConfig()
+        .cacheManager(60000, 100)
+        .getCache(CacheConfig.ITEMS_CACHE);
+
+    @Test
+    void items_mutatingStoredOrReturnedInstance_doesNotChangeCachedValue() {
+        Item item = new Item("Name", "Desc", 1, Money.valueOf("1.00"));
+        item.setId(1L);
+        cache.put(1L, item);
+
+        item.setName("Changed after put");
+        Item first = cache.get(1L, Item.class);
+        first.setName("Changed by reader");
+
+        Item second = cache.get(1L, Item.class);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("Name");
+    }
+
+    @Test
+    void items_valueLoader_returnsCopyOfLoadedValue() {
+        Item loaded = new Item("Loaded", "Desc", 1, Money.valueOf("2.00"));
+
+        Item out = cache.get(2L, () -> loaded);
+        out.setName("Changed");
+
+        assertThat(cache.get(2L, Item.class).getName()).isEqualTo("Loaded");
+    }
+}
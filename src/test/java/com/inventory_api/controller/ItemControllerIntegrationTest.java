@@ -3,6 +3,7 @@ package com.inventory_api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.inventory_api.dto.ItemDTO;
+import com.inventory_api.model.Money;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -10,7 +11,6 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
-import java.math.BigDecimal;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -31,13 +31,14 @@ public class ItemControllerIntegrationTest {
     @Test
     @Order(1)
     void createItem_valid_returns200AndBody() throws Exception {
-        ItemDTO dto = new ItemDTO(null, "TestItem", "Desc", 5, new BigDecimal("19.99"));
+        ItemDTO dto = new ItemDTO(null, "TestItem", "Desc", 5, Money.valueOf("19.99"));
         mockMvc.perform(post("/api/items")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(dto)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.id").isNumber())
             .andExpect(jsonPath("$.name").value("TestItem"))
+            .andExpect(jsonPath("$.price").value(19.99))
             .andDo(result -> {
                 ItemDTO resp = objectMapper.readValue(
                     result.getResponse().getContentAsString(),
@@ -67,13 +68,14 @@ public class ItemControllerIntegrationTest {
     @Test
     @Order(4)
     void updateItem_existing_returnsUpdated() throws Exception {
-        ItemDTO update = new ItemDTO(null, "UpdatedName", "NewDesc", 10, new BigDecimal("29.99"));
+        ItemDTO update = new ItemDTO(null, "UpdatedName", "NewDesc", 10, Money.valueOf("29.99"));
         mockMvc.perform(put("/api/items/{id}", createdId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(update)))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.name").value("UpdatedName"))
-            .andExpect(jsonPath("$.quantity").value(10));
+            .andExpect(jsonPath("$.quantity").value(10))
+            .andExpect(jsonPath("$.price").value(29.99));
     }
 
     @Test
@@ -87,13 +89,46 @@ public class ItemControllerIntegrationTest {
 
     @Test
     @Order(6)
+    void searchItems_byPriceRange_returnsFiltered() throws Exception {
+        mockMvc.perform(get("/api/items/search")
+                .param("minPrice", "29.99")
+                .param("maxPrice", "30"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].price").value(29.99));
+
+        mockMvc.perform(get("/api/items/search")
+                .param("minPrice", "0")
+                .param("maxPrice", "29.98"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(0));
+
+        // espacios alrededor se ignoran, como con BigDecimal
+        mockMvc.perform(get("/api/items/search")
+                .param("minPrice", " 29.99 ")
+                .param("maxPrice", " 30 "))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1));
+
+        // bounds vacíos: sin filtro de precio
+        mockMvc.perform(get("/api/items/search")
+                .param("name", "Updated")
+                .param("minPrice", "")
+                .param("maxPrice", ""))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].name").value("UpdatedName"));
+    }
+
+    @Test
+    @Order(7)
     void deleteItem_existing_returnsNoContent() throws Exception {
         mockMvc.perform(delete("/api/items/{id}", createdId))
             .andExpect(status().isNoContent());
     }
 
     @Test
-    @Order(7)
+    @Order(8)
     void getItemById_deleted_returns404() throws Exception {
         mockMvc.perform(get("/api/items/{id}", createdId))
             .andExpect(status().isNotFound());
@@ -102,9 +137,9 @@ public class ItemControllerIntegrationTest {
     // Adicional: validación, JSON malformado, constraint, error genérico...
     // Por ejemplo:
     @Test
-    @Order(8)
+    @Order(9)
     void createItem_invalid_validationError() throws Exception {
-        ItemDTO bad = new ItemDTO(null, "", "", -1, new BigDecimal("-5"));
+        ItemDTO bad = new ItemDTO(null, "", "", -1, Money.valueOf("-5"));
         mockMvc.perform(post("/api/items")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(bad)))
@@ -113,11 +148,22 @@ public class ItemControllerIntegrationTest {
     }
 
     @Test
-@Order(9)
+    @Order(10)
+    void createItem_priceWithTooManyDecimals_malformedJson() throws Exception {
+        String body = "{\"name\":\"X\",\"quantity\":1,\"price\":19.999}";
+        mockMvc.perform(post("/api/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Malformed JSON"));
+    }
+
+    @Test
+@Order(11)
 void getAllItems_withPagination_returnsPagedResults() throws Exception {
     // Crea 15 items de prueba
     for (int i = 1; i <= 15; i++) {
-        ItemDTO dto = new ItemDTO(null, "Item" + i, "Desc " + i, i, new BigDecimal("1.00"));
+        ItemDTO dto = new ItemDTO(null, "Item" + i, "Desc " + i, i, Money.valueOf("1.00"));
         mockMvc.perform(post("/api/items")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(dto)))
@@ -144,4 +190,14 @@ void getAllItems_withPagination_returnsPagedResults() throws Exception {
         .andExpect(jsonPath("$.content.length()").value(5))
         .andExpect(jsonPath("$.number").value(2));
 }
+
+    @Test
+    @Order(12)
+    void searchItems_invalidPriceBound_returns400() throws Exception {
+        mockMvc.perform(get("/api/items/search")
+                .param("minPrice", "9.999")
+                .param("maxPrice", "20"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Invalid Parameter"));
+    }
 }
@@ -0,0 +1,31 @@
+// src/test/java/com/inventory_api/model/ItemMappingTest.java
+package com.inventory_api.model;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.descriptor.java.MutabilityPlan;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+class ItemMappingTest {
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    // Money inmutable: el dirty-check no debe pasar por MoneyConverter
+    @Test
+    void price_isMappedAsImmutable() {
+        MutabilityPlan<?> plan = emf.unwrap(SessionFactoryImplementor.class)
+            .getMappingMetamodel()
+            .getEntityDescriptor(Item.class)
+            .findAttributeMapping("price")
+            .getAttributeMetadata()
+            .getMutabilityPlan();
+
+        assertThat(plan.isMutable()).isFalse();
+    }
+}
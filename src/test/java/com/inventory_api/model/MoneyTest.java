@@ -0,0 +1,92 @@
+// src/test/java/com/inventory_api/model/MoneyTest.java
+package com.inventory_api.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.inventory_api.config.JacksonConfig;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+        .registerModule(new JacksonConfig().moneyModule());
+
+    @Test
+    void valueOf_parsesPlainDecimals() {
+        assertThat(Money.valueOf("19.99").getMinorUnits()).isEqualTo(1999);
+        assertThat(Money.valueOf("19.9").getMinorUnits()).isEqualTo(1990);
+        assertThat(Money.valueOf("19").getMinorUnits()).isEqualTo(1900);
+        assertThat(Money.valueOf(".5").getMinorUnits()).isEqualTo(50);
+        assertThat(Money.valueOf("-0.01").getMinorUnits()).isEqualTo(-1);
+        assertThat(Money.valueOf("+3.10").getMinorUnits()).isEqualTo(310);
+        assertThat(Money.valueOf("19.990").getMinorUnits()).isEqualTo(1999);
+        assertThat(Money.valueOf("0.000").getMinorUnits()).isZero();
+        assertThat(Money.valueOf("9999999999999999.99").getMinorUnits()).isEqualTo(999999999999999999L);
+    }
+
+    @Test
+    void valueOf_parsesExponentNotation() {
+        assertThat(Money.valueOf("1e2").getMinorUnits()).isEqualTo(10000);
+        assertThat(Money.valueOf("1.5E1").getMinorUnits()).isEqualTo(1500);
+        assertThat(Money.valueOf("125e-2").getMinorUnits()).isEqualTo(125);
+        assertThat(Money.valueOf("-1E+1").getMinorUnits()).isEqualTo(-1000);
+        assertThat(Money.valueOf("0e99999").getMinorUnits()).isZero();
+    }
+
+    @Test
+    void valueOf_trimsAndTreatsBlankAsNull() {
+        assertThat(Money.valueOf(" 5 ").getMinorUnits()).isEqualTo(500);
+        assertThat(Money.valueOf("")).isNull();
+        assertThat(Money.valueOf("   ")).isNull();
+    }
+
+    @Test
+    void valueOf_invalid_throwsNumberFormatException() {
+        for (String bad : new String[] { "-", ".", "1.999", "1e-3", "1e", "e2", "1e16", "1.2.3", "abc",
+                                          "12345678901234567", "10000000000000000" }) {
+            assertThatThrownBy(() -> Money.valueOf(bad))
+                .as(bad)
+                .isInstanceOf(NumberFormatException.class);
+        }
+    }
+
+    @Test
+    void toString_formatsWithFixedScale() {
+        assertThat(Money.ofMinor(1999)).hasToString("19.99");
+        assertThat(Money.ofMinor(5)).hasToString("0.05");
+        assertThat(Money.ofMinor(-120)).hasToString("-1.20");
+        assertThat(Money.ofMinor(Long.MIN_VALUE)).hasToString("-92233720368547758.08");
+    }
+
+    @Test
+    void bigDecimal_roundTrip() {
+        assertThat(Money.of(new BigDecimal("7.5")).toBigDecimal()).isEqualTo(new BigDecimal("7.50"));
+        assertThatThrownBy(() -> Money.of(new BigDecimal("7.505")))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void compareTo_ordersByAmount() {
+        assertThat(Money.valueOf("1.00")).isLessThan(Money.valueOf("1.01"));
+        assertThat(Money.valueOf("2")).isEqualByComparingTo(Money.valueOf("2.00"));
+    }
+
+    @Test
+    void json_writesNumberAndReadsNumberOrString() throws Exception {
+        assertThat(mapper.writeValueAsString(Money.valueOf("19.90"))).isEqualTo("19.90");
+        assertThat(mapper.readValue("19.99", Money.class)).isEqualTo(Money.ofMinor(1999));
+        assertThat(mapper.readValue("20", Money.class)).isEqualTo(Money.ofMinor(2000));
+        assertThat(mapper.readValue("1.5E1", Money.class)).isEqualTo(Money.ofMinor(1500));
+        assertThat(mapper.readValue("\"0.25\"", Money.class)).isEqualTo(Money.ofMinor(25));
+    }
+
+    @Test
+    void json_tooManyDecimals_invalidFormat() {
+        assertThatThrownBy(() -> mapper.readValue("19.999", Money.class))
+            .isInstanceOf(InvalidFormatException.class);
+    }
+}
@@ -1,7 +1,9 @@
 // src/test/java/com/inventory_api/service/ItemServiceTest.java
 package com.inventory_api.service;
 
+import com.inventory_api.cluster.InvalidationTransport;
 import com.inventory_api.model.Item;
+import com.inventory_api.model.Money;
 import com.inventory_api.repository.ItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -13,7 +15,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.domain.*;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,9 @@ class ItemServiceTest {
     @Mock
     private ItemRepository repo;
 
+    @Mock
+    private InvalidationTransport invalidations;
+
     @InjectMocks
     private ItemService service;
 
@@ -34,7 +38,7 @@ class ItemServiceTest {
         Item in = new Item();
         in.setName("X");
         in.setQuantity(1);
-        in.setPrice(new BigDecimal("9.99"));
+        in.setPrice(Money.valueOf("9.99"));
 
         given(repo.save(in)).willReturn(in);
 
@@ -85,22 +89,23 @@ class ItemServiceTest {
         existing.setId(5L);
         existing.setName("Old");
         existing.setQuantity(2);
-        existing.setPrice(new BigDecimal("5.00"));
+        existing.setPrice(Money.valueOf("5.00"));
 
         Item updated = new Item();
         updated.setName("New");
         updated.setQuantity(3);
-        updated.setPrice(new BigDecimal("7.00"));
+        updated.setPrice(Money.valueOf("7.00"));
 
         given(repo.findById(5L)).willReturn(Optional.of(existing));
-        given(repo.save(existing)).willReturn(existing);
+        given(repo.saveAndFlush(existing)).willReturn(existing);
 
         Item out = service.update(5L, updated);
 
         // tras el mapeo manual, existing lleva los valores de 'updated'
         assertThat(out.getName()).isEqualTo("New");
         assertThat(out.getQuantity()).isEqualTo(3);
-        assertThat(out.getPrice()).isEqualByComparingTo("7.00");
+        assertThat(out.getPrice()).isEqualTo(Money.valueOf("7.00"));
+        then(invalidations).should().publish(5L);
     }
 
     @Test
@@ -112,5 +117,6 @@ class ItemServiceTest {
         service.delete(7L);
 
         then(repo).should().delete(existing);
+        then(invalidations).should().publish(7L);
     }
 }